@@ -1,5 +1,6 @@
 package com.github.shen;
 
+import com.github.shen.jfr.SwaggerEnrichmentRecorder;
 import com.github.shen.swagger.plugin.EnumModelPropertyBuilderPlugin;
 import com.github.shen.swagger.plugin.EnumParameterBuilderPlugin;
 import org.springframework.context.annotation.Bean;
@@ -16,12 +17,17 @@ public class SwaggerConfiguration {
 
     @Bean
     public EnumModelPropertyBuilderPlugin enumModelPropertyBuilderPlugin() {
-        return new EnumModelPropertyBuilderPlugin();
+        return new EnumModelPropertyBuilderPlugin(swaggerEnrichmentRecorder());
     }
 
 
     @Bean
     public EnumParameterBuilderPlugin enumParameterBuilderPlugin() {
-        return new EnumParameterBuilderPlugin();
+        return new EnumParameterBuilderPlugin(swaggerEnrichmentRecorder());
+    }
+
+    @Bean
+    public SwaggerEnrichmentRecorder swaggerEnrichmentRecorder() {
+        return new SwaggerEnrichmentRecorder();
     }
 }
@@ -0,0 +1,26 @@
+package com.github.shen.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR 事件: 记录单次 String 到枚举的转换,只有耗时超过阈值(默认 1 ms)的转换才会被记录
+ */
+@Name("com.github.shen.EnumConversion")
+@Label("Enum Conversion")
+@Category({"Solution For Enums", "Spring MVC"})
+@Description("通过 @EnumConvertMethod 工厂方法将请求参数转换为枚举")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public class EnumConversionEvent extends Event {
+
+    @Label("Enum Type")
+    public Class<?> enumType;
+
+    @Label("Source")
+    @Description("请求参数,超过 16 个字符的部分会被截断")
+    public String source;
+
+    @Label("Source Length")
+    public int sourceLength;
+}
@@ -0,0 +1,26 @@
+package com.github.shen.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR 事件: 记录 {@link com.github.shen.mvc.plugin.EnumMvcConverterFactory} 为某个枚举类创建转换器的耗时
+ */
+@Name("com.github.shen.EnumConverterHolderCreation")
+@Label("Enum Converter Holder Creation")
+@Category({"Solution For Enums", "Spring MVC"})
+@Description("查找 @EnumConvertMethod 工厂方法并创建枚举转换器")
+@Enabled(false)
+@StackTrace(false)
+public class EnumConverterHolderCreationEvent extends Event {
+
+    @Label("Enum Type")
+    public Class<?> enumType;
+
+    @Label("Converter Present")
+    @Description("枚举类中是否存在被 @EnumConvertMethod 标记的工厂方法")
+    public boolean converterPresent;
+
+    @Label("Error")
+    @Description("@EnumConvertMethod 标记有误时的错误信息")
+    public String error;
+}
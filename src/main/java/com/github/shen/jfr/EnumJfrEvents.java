@@ -0,0 +1,79 @@
+package com.github.shen.jfr;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 记录 JFR 事件的统一入口
+ * 运行时不存在 JFR(例如 8u262 之前的 JDK 8)时所有方法都是空操作,调用方不需要再做判断
+ * begin 方法返回的对象原样传给对应的 end 方法即可,事件关闭时 begin 返回 null
+ */
+public final class EnumJfrEvents {
+
+    @Nullable
+    private static final EventDelegate delegate = createDelegate();
+
+    private EnumJfrEvents() {
+    }
+
+    @Nullable
+    private static EventDelegate createDelegate() {
+        ClassLoader classLoader = EnumJfrEvents.class.getClassLoader();
+        if (!ClassUtils.isPresent("jdk.jfr.FlightRecorder", classLoader)) {
+            return null;
+        }
+        try {
+            // 通过反射加载,保证没有 JFR 时不会解析到 JfrEventDelegate
+            Class<?> delegateClass = ClassUtils.forName("com.github.shen.jfr.JfrEventDelegate", classLoader);
+            return BeanUtils.instantiateClass(delegateClass, EventDelegate.class);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    public static Object beginHolderCreation() {
+        return delegate != null ? delegate.beginHolderCreation() : null;
+    }
+
+    public static void endHolderCreation(@Nullable Object event, Class<?> enumType, boolean converterPresent, @Nullable String error) {
+        if (event != null) {
+            delegate.endHolderCreation(event, enumType, converterPresent, error);
+        }
+    }
+
+    @Nullable
+    public static Object beginConversion() {
+        return delegate != null ? delegate.beginConversion() : null;
+    }
+
+    public static void endConversion(@Nullable Object event, Class<?> enumType, String source) {
+        if (event != null) {
+            delegate.endConversion(event, enumType, source);
+        }
+    }
+
+    @Nullable
+    public static Object beginSwaggerPlugin() {
+        return delegate != null ? delegate.beginSwaggerPlugin() : null;
+    }
+
+    public static void endSwaggerPlugin(@Nullable Object event, String plugin, @Nullable Class<?> enumType,
+                                        @Nullable String operationName, @Nullable Class<?> modelType,
+                                        @Nullable String propertyName, boolean enriched) {
+        if (event != null) {
+            delegate.endSwaggerPlugin(event, plugin, enumType, operationName, modelType, propertyName, enriched);
+        }
+    }
+
+    public static boolean isSwaggerSummaryEnabled() {
+        return delegate != null && delegate.isSwaggerSummaryEnabled();
+    }
+
+    public static void commitSwaggerSummary(long totalTime, long invocations, long enriched) {
+        if (delegate != null) {
+            delegate.commitSwaggerSummary(totalTime, invocations, enriched);
+        }
+    }
+}
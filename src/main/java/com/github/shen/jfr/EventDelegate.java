@@ -0,0 +1,30 @@
+package com.github.shen.jfr;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link EnumJfrEvents} 的实际实现,接口中不能出现 {@code jdk.jfr} 类
+ * begin 方法在事件关闭时返回 null
+ */
+interface EventDelegate {
+
+    @Nullable
+    Object beginHolderCreation();
+
+    void endHolderCreation(Object event, Class<?> enumType, boolean converterPresent, @Nullable String error);
+
+    @Nullable
+    Object beginConversion();
+
+    void endConversion(Object event, Class<?> enumType, String source);
+
+    @Nullable
+    Object beginSwaggerPlugin();
+
+    void endSwaggerPlugin(Object event, String plugin, @Nullable Class<?> enumType, @Nullable String operationName,
+                          @Nullable Class<?> modelType, @Nullable String propertyName, boolean enriched);
+
+    boolean isSwaggerSummaryEnabled();
+
+    void commitSwaggerSummary(long totalTime, long invocations, long enriched);
+}
@@ -0,0 +1,104 @@
+package com.github.shen.jfr;
+
+import jdk.jfr.EventType;
+import org.springframework.lang.Nullable;
+
+/**
+ * 基于 JFR 的 {@link EventDelegate},只有运行时存在 JFR 才会被加载
+ */
+final class JfrEventDelegate implements EventDelegate {
+
+    private static final int MAX_SOURCE_LENGTH = 16;
+
+    private final EventType holderCreationType = EventType.getEventType(EnumConverterHolderCreationEvent.class);
+    private final EventType conversionType = EventType.getEventType(EnumConversionEvent.class);
+    private final EventType swaggerPluginType = EventType.getEventType(SwaggerEnumPluginEvent.class);
+    private final EventType swaggerSummaryType = EventType.getEventType(SwaggerEnrichmentSummaryEvent.class);
+
+    @Override
+    public Object beginHolderCreation() {
+        if (!holderCreationType.isEnabled()) {
+            return null;
+        }
+        EnumConverterHolderCreationEvent event = new EnumConverterHolderCreationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endHolderCreation(Object event, Class<?> enumType, boolean converterPresent, @Nullable String error) {
+        EnumConverterHolderCreationEvent holderCreationEvent = (EnumConverterHolderCreationEvent) event;
+        holderCreationEvent.end();
+        if (holderCreationEvent.shouldCommit()) {
+            holderCreationEvent.enumType = enumType;
+            holderCreationEvent.converterPresent = converterPresent;
+            holderCreationEvent.error = error;
+            holderCreationEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginConversion() {
+        if (!conversionType.isEnabled()) {
+            return null;
+        }
+        EnumConversionEvent event = new EnumConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endConversion(Object event, Class<?> enumType, String source) {
+        EnumConversionEvent conversionEvent = (EnumConversionEvent) event;
+        conversionEvent.end();
+        if (conversionEvent.shouldCommit()) {
+            conversionEvent.enumType = enumType;
+            // source 是请求参数,只截取前面一小段写入 JFR
+            conversionEvent.source = source.length() > MAX_SOURCE_LENGTH ? source.substring(0, MAX_SOURCE_LENGTH) : source;
+            conversionEvent.sourceLength = source.length();
+            conversionEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginSwaggerPlugin() {
+        if (!swaggerPluginType.isEnabled()) {
+            return null;
+        }
+        SwaggerEnumPluginEvent event = new SwaggerEnumPluginEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endSwaggerPlugin(Object event, String plugin, @Nullable Class<?> enumType, @Nullable String operationName,
+                                 @Nullable Class<?> modelType, @Nullable String propertyName, boolean enriched) {
+        SwaggerEnumPluginEvent pluginEvent = (SwaggerEnumPluginEvent) event;
+        pluginEvent.end();
+        if (pluginEvent.shouldCommit()) {
+            pluginEvent.plugin = plugin;
+            pluginEvent.enumType = enumType;
+            pluginEvent.operationName = operationName;
+            pluginEvent.modelType = modelType;
+            pluginEvent.propertyName = propertyName;
+            pluginEvent.enriched = enriched;
+            pluginEvent.commit();
+        }
+    }
+
+    @Override
+    public boolean isSwaggerSummaryEnabled() {
+        return swaggerSummaryType.isEnabled();
+    }
+
+    @Override
+    public void commitSwaggerSummary(long totalTime, long invocations, long enriched) {
+        SwaggerEnrichmentSummaryEvent event = new SwaggerEnrichmentSummaryEvent();
+        if (event.shouldCommit()) {
+            event.totalTime = totalTime;
+            event.invocations = invocations;
+            event.enriched = enriched;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.shen.jfr;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 记录 Swagger 枚举插件的 JFR 事件,需要注入到 Swagger 枚举插件中使用
+ * 注册为 Spring bean 时会统计插件耗时,并在所在容器 refresh 完成(springfox 已生成文档)后提交 {@link SwaggerEnrichmentSummaryEvent}
+ * 没有注册为 bean 时只记录 {@link SwaggerEnumPluginEvent}
+ */
+public class SwaggerEnrichmentRecorder implements ApplicationContextAware, ApplicationListener<ContextRefreshedEvent> {
+
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder enriched = new LongAdder();
+
+    @Nullable
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * 在插件调用开始时调用,返回值需要传给 {@link #end},事件都关闭时返回 null
+     */
+    @Nullable
+    public Invocation begin() {
+        Object event = EnumJfrEvents.beginSwaggerPlugin();
+        boolean summarized = applicationContext != null && EnumJfrEvents.isSwaggerSummaryEnabled();
+        if (event == null && !summarized) {
+            return null;
+        }
+        return new Invocation(event, summarized, summarized ? System.nanoTime() : 0L);
+    }
+
+    public void end(@Nullable Invocation invocation, String plugin, @Nullable Class<?> enumType, @Nullable String operationName,
+                    @Nullable Class<?> modelType, @Nullable String propertyName, boolean enrichedEnum) {
+        if (invocation == null) {
+            return;
+        }
+        EnumJfrEvents.endSwaggerPlugin(invocation.event, plugin, enumType, operationName, modelType, propertyName, enrichedEnum);
+        if (invocation.summarized) {
+            totalTime.add(System.nanoTime() - invocation.startNanos);
+            invocations.increment();
+            if (enrichedEnum) {
+                enriched.increment();
+            }
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent contextRefreshedEvent) {
+        // 子容器的 refresh 事件也会传播过来,只处理生成文档的容器
+        if (contextRefreshedEvent.getApplicationContext() != applicationContext) {
+            return;
+        }
+        long time = totalTime.sumThenReset();
+        long count = invocations.sumThenReset();
+        long enrichedCount = enriched.sumThenReset();
+        if (count > 0) {
+            EnumJfrEvents.commitSwaggerSummary(time, count, enrichedCount);
+        }
+    }
+
+    public static final class Invocation {
+
+        @Nullable
+        private final Object event;
+
+        private final boolean summarized;
+
+        private final long startNanos;
+
+        private Invocation(@Nullable Object event, boolean summarized, long startNanos) {
+            this.event = event;
+            this.summarized = summarized;
+            this.startNanos = startNanos;
+        }
+    }
+}
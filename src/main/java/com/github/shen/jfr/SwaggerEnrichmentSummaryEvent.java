@@ -0,0 +1,26 @@
+package com.github.shen.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR 事件: 汇总一次 Swagger 文档生成过程中枚举插件的总耗时
+ */
+@Name("com.github.shen.SwaggerEnrichmentSummary")
+@Label("Swagger Enrichment Summary")
+@Category({"Solution For Enums", "Swagger"})
+@Description("Swagger 枚举插件的调用次数与总耗时")
+@Enabled(false)
+@StackTrace(false)
+public class SwaggerEnrichmentSummaryEvent extends Event {
+
+    @Label("Total Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long totalTime;
+
+    @Label("Invocations")
+    public long invocations;
+
+    @Label("Enriched")
+    @Description("为 @SwaggerDisplayEnum 枚举补充了描述的次数")
+    public long enriched;
+}
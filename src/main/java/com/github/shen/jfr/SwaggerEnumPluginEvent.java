@@ -0,0 +1,37 @@
+package com.github.shen.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR 事件: 记录 Swagger 枚举插件的单次调用
+ */
+@Name("com.github.shen.SwaggerEnumPlugin")
+@Label("Swagger Enum Plugin")
+@Category({"Solution For Enums", "Swagger"})
+@Description("Swagger 插件为枚举类型补充文档描述")
+@Enabled(false)
+@StackTrace(false)
+public class SwaggerEnumPluginEvent extends Event {
+
+    @Label("Plugin")
+    public String plugin;
+
+    @Label("Enum Type")
+    public Class<?> enumType;
+
+    @Label("Operation Name")
+    @Description("接口名,model 属性没有对应的接口,此时为空")
+    public String operationName;
+
+    @Label("Model Type")
+    @Description("属性所在的 model 类,仅 model 属性有值")
+    public Class<?> modelType;
+
+    @Label("Property Name")
+    @Description("参数名或者 model 的属性名")
+    public String propertyName;
+
+    @Label("Enriched")
+    @Description("是否为 @SwaggerDisplayEnum 枚举补充了描述")
+    public boolean enriched;
+}
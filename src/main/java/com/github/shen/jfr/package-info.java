@@ -0,0 +1,6 @@
+/**
+ * 自定义 JFR 事件
+ * 所有事件默认关闭,需要在 .jfc 配置文件中把对应事件的 enabled 设置为 true,或者通过 {@code jdk.jfr.Recording#enable} 开启.
+ * 业务代码只通过 {@link com.github.shen.jfr.EnumJfrEvents} 记录事件,运行时没有 JFR 时不会加载任何 {@code jdk.jfr} 类
+ */
+package com.github.shen.jfr;
@@ -1,5 +1,6 @@
 package com.github.shen.mvc.plugin;
 
+import com.github.shen.jfr.EnumJfrEvents;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.springframework.core.convert.converter.Converter;
@@ -40,6 +41,21 @@ public class EnumMvcConverterFactory implements ConverterFactory<String, Enum<?>
         final EnumMvcConverter<?> converter;
 
         static EnumMvcConverterHolder createHolder(Class<?> targetType) {
+            Object event = EnumJfrEvents.beginHolderCreation();
+            EnumMvcConverterHolder holder = null;
+            String error = null;
+            try {
+                holder = doCreateHolder(targetType);
+                return holder;
+            } catch (RuntimeException e) {
+                error = e.getMessage();
+                throw e;
+            } finally {
+                EnumJfrEvents.endHolderCreation(event, targetType, holder != null && holder.converter != null, error);
+            }
+        }
+
+        private static EnumMvcConverterHolder doCreateHolder(Class<?> targetType) {
             List<Method> methodList = MethodUtils.getMethodsListWithAnnotation(targetType, EnumConvertMethod.class, false, true);
             if (CollectionUtils.isEmpty(methodList)) {
                 return new EnumMvcConverterHolder(null);
@@ -56,9 +72,12 @@ public class EnumMvcConverterFactory implements ConverterFactory<String, Enum<?>
 
         private final Method method;
 
+        private final Class<?> enumType;
+
         public EnumMvcConverter(Method method) {
             this.method = method;
             this.method.setAccessible(true);
+            this.enumType = method.getDeclaringClass();
         }
 
         @Override
@@ -67,10 +86,13 @@ public class EnumMvcConverterFactory implements ConverterFactory<String, Enum<?>
                 // reset the enum value to null.
                 return null;
             }
+            Object event = EnumJfrEvents.beginConversion();
             try {
                 return (T) method.invoke(null, Integer.valueOf(source));
             } catch (Exception e) {
                 throw new IllegalArgumentException(e);
+            } finally {
+                EnumJfrEvents.endConversion(event, enumType, source);
             }
         }
 
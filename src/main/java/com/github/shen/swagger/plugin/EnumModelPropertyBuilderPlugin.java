@@ -1,6 +1,7 @@
 package com.github.shen.swagger.plugin;
 
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.github.shen.jfr.SwaggerEnrichmentRecorder;
 import com.google.common.base.Optional;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.ReflectionUtils;
@@ -22,6 +23,16 @@ import java.util.stream.Collectors;
 @SuppressWarnings(value = "all")
 public class EnumModelPropertyBuilderPlugin implements ModelPropertyBuilderPlugin {
 
+    private final SwaggerEnrichmentRecorder recorder;
+
+    public EnumModelPropertyBuilderPlugin() {
+        this(new SwaggerEnrichmentRecorder());
+    }
+
+    public EnumModelPropertyBuilderPlugin(SwaggerEnrichmentRecorder recorder) {
+        this.recorder = recorder;
+    }
+
     @Override
     public void apply(ModelPropertyContext context) {
         Optional<BeanPropertyDefinition> optional = context.getBeanPropertyDefinition();
@@ -31,7 +42,14 @@ public class EnumModelPropertyBuilderPlugin implements ModelPropertyBuilderPlugi
 
         final Class<?> fieldType = optional.get().getField().getRawType();
 
-        addDescForEnum(context, fieldType);
+        SwaggerEnrichmentRecorder.Invocation invocation = recorder.begin();
+        boolean enriched = false;
+        try {
+            enriched = addDescForEnum(context, fieldType);
+        } finally {
+            recorder.end(invocation, "EnumModelPropertyBuilderPlugin", Enum.class.isAssignableFrom(fieldType) ? fieldType : null,
+                    null, optional.get().getField().getDeclaringClass(), optional.get().getName(), enriched);
+        }
     }
 
     @Override
@@ -39,7 +57,7 @@ public class EnumModelPropertyBuilderPlugin implements ModelPropertyBuilderPlugi
         return true;
     }
 
-    private void addDescForEnum(ModelPropertyContext context, Class<?> fieldType) {
+    private boolean addDescForEnum(ModelPropertyContext context, Class<?> fieldType) {
         if (Enum.class.isAssignableFrom(fieldType)) {
             SwaggerDisplayEnum annotation = AnnotationUtils.findAnnotation(fieldType, SwaggerDisplayEnum.class);
             if (annotation != null) {
@@ -73,8 +91,9 @@ public class EnumModelPropertyBuilderPlugin implements ModelPropertyBuilderPlugi
                         + " (" + String.join("; ", displayValues) + ")";
 
                 builder.description(joinText).type(context.getResolver().resolve(Integer.class));
+                return true;
             }
         }
-
+        return false;
     }
 }
@@ -1,6 +1,7 @@
 package com.github.shen.swagger.plugin;
 
 import com.fasterxml.classmate.ResolvedType;
+import com.github.shen.jfr.SwaggerEnrichmentRecorder;
 import com.google.common.base.Joiner;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -29,9 +30,30 @@ public class EnumParameterBuilderPlugin implements ParameterBuilderPlugin, Opera
 
     private static final Joiner joiner = Joiner.on(",");
 
+    private final SwaggerEnrichmentRecorder recorder;
+
+    public EnumParameterBuilderPlugin() {
+        this(new SwaggerEnrichmentRecorder());
+    }
+
+    public EnumParameterBuilderPlugin(SwaggerEnrichmentRecorder recorder) {
+        this.recorder = recorder;
+    }
+
     @Override
     public void apply(ParameterContext context) {
         Class<?> type = context.resolvedMethodParameter().getParameterType().getErasedType();
+        SwaggerEnrichmentRecorder.Invocation invocation = recorder.begin();
+        boolean enriched = false;
+        try {
+            enriched = addAllowableValuesForEnum(context, type);
+        } finally {
+            recorder.end(invocation, "EnumParameterBuilderPlugin#parameter", Enum.class.isAssignableFrom(type) ? type : null,
+                    context.getOperationContext().getName(), null, context.resolvedMethodParameter().defaultName().orNull(), enriched);
+        }
+    }
+
+    private boolean addAllowableValuesForEnum(ParameterContext context, Class<?> type) {
         if (Enum.class.isAssignableFrom(type)) {
             SwaggerDisplayEnum annotation = AnnotationUtils.findAnnotation(type, SwaggerDisplayEnum.class);
             if (annotation != null) {
@@ -56,8 +78,10 @@ public class EnumParameterBuilderPlugin implements ParameterBuilderPlugin, Opera
                 ParameterBuilder parameterBuilder = context.parameterBuilder();
                 AllowableListValues values = new AllowableListValues(displayValues, "LIST");
                 parameterBuilder.allowableValues(values);
+                return true;
             }
         }
+        return false;
     }
 
 
@@ -73,47 +97,61 @@ public class EnumParameterBuilderPlugin implements ParameterBuilderPlugin, Opera
         parameters.forEach(parameter -> {
             ResolvedType parameterType = parameter.getParameterType();
             Class<?> clazz = parameterType.getErasedType();
-            if (Enum.class.isAssignableFrom(clazz)) {
-                SwaggerDisplayEnum annotation = AnnotationUtils.findAnnotation(clazz, SwaggerDisplayEnum.class);
-                if (annotation != null) {
-                    String index = annotation.index();
-                    String name = annotation.name();
-                    Object[] enumConstants = clazz.getEnumConstants();
-
-                    List<String> displayValues = Arrays.stream(enumConstants).filter(Objects::nonNull).map(item -> {
-                        Class<?> currentClass = item.getClass();
-
-                        Field indexField = ReflectionUtils.findField(currentClass, index);
-                        ReflectionUtils.makeAccessible(indexField);
-                        Object value = ReflectionUtils.getField(indexField, item);
-
-                        Field descField = ReflectionUtils.findField(currentClass, name);
-                        ReflectionUtils.makeAccessible(descField);
-                        Object desc = ReflectionUtils.getField(descField, item);
-                        return value + ":" + desc;
-
-                    }).collect(Collectors.toList());
-
-                    map.put(parameter.defaultName().or(""), displayValues);
-
-                    OperationBuilder operationBuilder = context.operationBuilder();
-                    Field parametersField = ReflectionUtils.findField(operationBuilder.getClass(), "parameters");
-                    ReflectionUtils.makeAccessible(parametersField);
-                    List<Parameter> list = (List<Parameter>) ReflectionUtils.getField(parametersField, operationBuilder);
-
-                    map.forEach((k, v) -> {
-                        for (Parameter currentParameter : list) {
-                            if (StringUtils.equals(currentParameter.getName(), k)) {
-                                Field description = ReflectionUtils.findField(currentParameter.getClass(), "description");
-                                ReflectionUtils.makeAccessible(description);
-                                Object field = ReflectionUtils.getField(description, currentParameter);
-                                ReflectionUtils.setField(description, currentParameter, field + " , " + joiner.join(v));
-                                break;
-                            }
-                        }
-                    });
-                }
+            SwaggerEnrichmentRecorder.Invocation invocation = recorder.begin();
+            boolean enriched = false;
+            try {
+                enriched = addDescForEnum(context, map, parameter, clazz);
+            } finally {
+                recorder.end(invocation, "EnumParameterBuilderPlugin#operation", Enum.class.isAssignableFrom(clazz) ? clazz : null,
+                        context.getName(), null, parameter.defaultName().orNull(), enriched);
             }
         });
     }
+
+    private boolean addDescForEnum(OperationContext context, Map<String, List<String>> map,
+                                   ResolvedMethodParameter parameter, Class<?> clazz) {
+        if (Enum.class.isAssignableFrom(clazz)) {
+            SwaggerDisplayEnum annotation = AnnotationUtils.findAnnotation(clazz, SwaggerDisplayEnum.class);
+            if (annotation != null) {
+                String index = annotation.index();
+                String name = annotation.name();
+                Object[] enumConstants = clazz.getEnumConstants();
+
+                List<String> displayValues = Arrays.stream(enumConstants).filter(Objects::nonNull).map(item -> {
+                    Class<?> currentClass = item.getClass();
+
+                    Field indexField = ReflectionUtils.findField(currentClass, index);
+                    ReflectionUtils.makeAccessible(indexField);
+                    Object value = ReflectionUtils.getField(indexField, item);
+
+                    Field descField = ReflectionUtils.findField(currentClass, name);
+                    ReflectionUtils.makeAccessible(descField);
+                    Object desc = ReflectionUtils.getField(descField, item);
+                    return value + ":" + desc;
+
+                }).collect(Collectors.toList());
+
+                map.put(parameter.defaultName().or(""), displayValues);
+
+                OperationBuilder operationBuilder = context.operationBuilder();
+                Field parametersField = ReflectionUtils.findField(operationBuilder.getClass(), "parameters");
+                ReflectionUtils.makeAccessible(parametersField);
+                List<Parameter> list = (List<Parameter>) ReflectionUtils.getField(parametersField, operationBuilder);
+
+                map.forEach((k, v) -> {
+                    for (Parameter currentParameter : list) {
+                        if (StringUtils.equals(currentParameter.getName(), k)) {
+                            Field description = ReflectionUtils.findField(currentParameter.getClass(), "description");
+                            ReflectionUtils.makeAccessible(description);
+                            Object field = ReflectionUtils.getField(description, currentParameter);
+                            ReflectionUtils.setField(description, currentParameter, field + " , " + joiner.join(v));
+                            break;
+                        }
+                    }
+                });
+                return true;
+            }
+        }
+        return false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.github.shen.jfr;
+
+import com.github.shen.enums.CourseType;
+import com.github.shen.mvc.plugin.EnumConvertMethod;
+import com.github.shen.mvc.plugin.EnumMvcConverterFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Swagger 文档在容器启动时生成,所以需要在容器启动之前开启 JFR recording
+ */
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+class EnumJfrEventsTests {
+
+    private static Recording recording;
+
+    @Autowired
+    private EnumMvcConverterFactory enumMvcConverterFactory;
+
+    @BeforeAll
+    static void startRecording() {
+        recording = new Recording();
+        recording.enable(EnumConverterHolderCreationEvent.class);
+        recording.enable(EnumConversionEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(SwaggerEnumPluginEvent.class);
+        recording.enable(SwaggerEnrichmentSummaryEvent.class);
+        recording.start();
+    }
+
+    @AfterAll
+    static void closeRecording() {
+        recording.close();
+    }
+
+    @Test
+    void eventsAreRecorded() throws Exception {
+        assertEquals(CourseType.AUDIO, enumMvcConverterFactory.getConverter(CourseType.class).convert("0000000000000000000103"));
+        assertThrows(IllegalArgumentException.class, () -> enumMvcConverterFactory.getConverter(DuplicateConvertMethod.class));
+
+        recording.stop();
+        Path file = Files.createTempFile("solution-for-enums", ".jfr");
+        try {
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            List<RecordedEvent> holders = filter(events, "com.github.shen.EnumConverterHolderCreation");
+            assertEquals(2, holders.size());
+            assertEquals(CourseType.class.getName(), holders.get(0).getClass("enumType").getName());
+            assertTrue(holders.get(0).getBoolean("converterPresent"));
+            assertNull(holders.get(0).getString("error"));
+            assertEquals(DuplicateConvertMethod.class.getName(), holders.get(1).getClass("enumType").getName());
+            assertFalse(holders.get(1).getBoolean("converterPresent"));
+            assertNotNull(holders.get(1).getString("error"));
+
+            RecordedEvent conversion = single(events, "com.github.shen.EnumConversion");
+            assertEquals(CourseType.class.getName(), conversion.getClass("enumType").getName());
+            assertEquals("0000000000000000", conversion.getString("source"));
+            assertEquals(22, conversion.getInt("sourceLength"));
+
+            List<RecordedEvent> plugins = filter(events, "com.github.shen.SwaggerEnumPlugin");
+            assertTrue(plugins.stream().anyMatch(e -> e.getString("plugin").equals("EnumParameterBuilderPlugin#parameter")
+                    && e.getBoolean("enriched")
+                    && e.getClass("enumType").getName().equals(CourseType.class.getName())
+                    && e.getString("operationName") != null));
+            assertTrue(plugins.stream().anyMatch(e -> e.getString("plugin").equals("EnumParameterBuilderPlugin#operation")
+                    && e.getBoolean("enriched")));
+            assertTrue(plugins.stream().anyMatch(e -> e.getString("plugin").equals("EnumModelPropertyBuilderPlugin")
+                    && e.getBoolean("enriched")
+                    && "courseType".equals(e.getString("propertyName"))
+                    && e.getClass("modelType").getName().endsWith("HelloController$Rt")));
+
+            RecordedEvent summary = single(events, "com.github.shen.SwaggerEnrichmentSummary");
+            assertTrue(summary.getLong("invocations") > 0);
+            assertTrue(summary.getLong("enriched") > 0);
+            assertTrue(summary.getLong("totalTime") > 0);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    enum DuplicateConvertMethod {
+        ;
+
+        @EnumConvertMethod
+        static DuplicateConvertMethod first(int index) {
+            return null;
+        }
+
+        @EnumConvertMethod
+        static DuplicateConvertMethod second(int index) {
+            return null;
+        }
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> list = filter(events, name);
+        assertEquals(1, list.size(), name);
+        return list.get(0);
+    }
+}